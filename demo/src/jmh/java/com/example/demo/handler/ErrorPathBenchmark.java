@@ -0,0 +1,123 @@
+package com.example.demo.handler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import com.example.demo.dto.EmployeeCreateRequest;
+import com.example.demo.dto.EmployeeDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * So sánh chi phí (thời gian + allocation qua profiler gc) của lỗi 404 và 400
+ * trước và sau khi dùng exception không stack trace và body serialize sẵn.
+ * Chạy bằng {@code ./gradlew jmh}, xem cột {@code gc.alloc.rate.norm} (B/op).
+ *
+ * Các benchmark "before" tái hiện lại code cũ: exception có stack trace,
+ * {@link ErrorResponse} mới với {@code LocalDateTime.now()} và Jackson.
+ * Stack thật trong Spring MVC sâu hơn nhiều, nên số liệu "before" ở đây còn thấp hơn thực tế.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final Long missingId = 123456L;
+    private List<ObjectError> validationErrors;
+
+    @Setup
+    public void setup() {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new EmployeeCreateRequest(), "employeeCreateRequest");
+        bindingResult.addError(new FieldError("employeeCreateRequest", "fullName", "Full name không được để trống"));
+        bindingResult.addError(new FieldError("employeeCreateRequest", "email", "Email không hợp lệ"));
+        bindingResult.addError(new FieldError("employeeCreateRequest", "phoneNumber", "Số điện thoại phải gồm 10 chữ số"));
+        validationErrors = bindingResult.getAllErrors();
+    }
+
+    @Benchmark
+    public byte[] notFoundBefore() throws Exception {
+        try {
+            return findEmployee(missingId)
+                    .map(this::toBytes)
+                    .orElseThrow(() -> new LegacyEmployeeNotFoundException(missingId));
+        } catch (LegacyEmployeeNotFoundException ex) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    ex.getMessage(),
+                    HttpStatus.NOT_FOUND.value(),
+                    LocalDateTime.now()
+            );
+            return objectMapper.writeValueAsBytes(errorResponse);
+        }
+    }
+
+    @Benchmark
+    public byte[] notFoundAfter() {
+        return findEmployee(missingId)
+                .map(this::toBytes)
+                .orElseGet(() -> ErrorResponses.employeeNotFound(missingId).getBody());
+    }
+
+    @Benchmark
+    public byte[] validationBefore() throws Exception {
+        List<String> errorMessages = new ArrayList<>();
+        validationErrors.forEach(error -> {
+            String errorMessage = error.getDefaultMessage();
+            String fieldName = ((FieldError) error).getField();
+            errorMessages.add(fieldName + ": " + errorMessage);
+        });
+        ErrorResponse errorResponse = new ErrorResponse(
+                "Validation failed",
+                HttpStatus.BAD_REQUEST.value(),
+                LocalDateTime.now()
+        );
+        errorResponse.setErrors(errorMessages);
+        return objectMapper.writeValueAsBytes(errorResponse);
+    }
+
+    @Benchmark
+    public byte[] validationAfter() {
+        return ErrorResponses.validationFailed(validationErrors).getBody();
+    }
+
+    // Giả lập repository không tìm thấy id đã bị xoá
+    private Optional<EmployeeDTO> findEmployee(Long id) {
+        return Optional.empty();
+    }
+
+    private byte[] toBytes(EmployeeDTO employee) {
+        return new byte[0];
+    }
+
+    // EmployeeNotFoundException trước đây: RuntimeException có stack trace đầy đủ
+    private static class LegacyEmployeeNotFoundException extends RuntimeException {
+        LegacyEmployeeNotFoundException(Long id) {
+            super("Employee not found with id: " + id);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.example.demo.dto.EmployeeCreateRequest;
 import com.example.demo.dto.EmployeeDTO;
 import com.example.demo.dto.EmployeeUpdateRequest;
+import com.example.demo.handler.ErrorResponses;
 import com.example.demo.service.EmployeeService;
 
 import jakarta.validation.Valid;
@@ -44,10 +45,13 @@ public class EmployeeController {
         return ResponseEntity.ok(employees);
     }
 
+    // Id không tồn tại là trường hợp thường gặp (link cũ, scraper) nên trả 404 trực tiếp,
+    // không ném exception qua GlobalExceptionHandler; body giống hệt bên handler
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeDTO> getEmployeeById(@PathVariable Long id) {
-        EmployeeDTO employee = employeeService.getEmployeeById(id);
-        return ResponseEntity.ok(employee);
+    public ResponseEntity<?> getEmployeeById(@PathVariable Long id) {
+        return employeeService.findEmployeeById(id)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ErrorResponses.employeeNotFound(id));
     }
     
     @PutMapping("/{id}")
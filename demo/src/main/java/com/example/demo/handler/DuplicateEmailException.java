@@ -1,6 +1,6 @@
 package com.example.demo.handler;
 
-public class DuplicateEmailException extends RuntimeException {
+public class DuplicateEmailException extends EntityDuplicateException {
     public DuplicateEmailException(String message) {
         super(message);
     }
@@ -1,11 +1,14 @@
 package com.example.demo.handler;
 
-public class EmployeeNotFoundException extends RuntimeException {
+public class EmployeeNotFoundException extends EntityNotFoundException {
+    // Dùng chung với ErrorResponses.employeeNotFound để message không bị lệch
+    public static final String MESSAGE_PREFIX = "Employee not found with id: ";
+
     public EmployeeNotFoundException(String message) {
         super(message);
     }
 
     public EmployeeNotFoundException(Long id) {
-        super("Employee not found with id: " + id);
+        super(MESSAGE_PREFIX + id);
     }
 }
@@ -6,12 +6,13 @@ public class EntityDuplicateException extends RuntimeException {
     private final HttpStatus status;
 
     public EntityDuplicateException(String message) {
-        super(message);
+        // Lỗi nghiệp vụ dự kiến: không cần stack trace
+        super(message, null, false, false);
         this.status = HttpStatus.CONFLICT;
     }
 
     public EntityDuplicateException(String message, HttpStatus status) {
-        super(message);
+        super(message, null, false, false);
         this.status = status;
     }
 
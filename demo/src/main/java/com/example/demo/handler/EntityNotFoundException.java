@@ -6,12 +6,13 @@ public class EntityNotFoundException extends RuntimeException {
     private final HttpStatus status;
 
     public EntityNotFoundException(String message) {
-        super(message);
+        // Lỗi nghiệp vụ dự kiến: không cần stack trace
+        super(message, null, false, false);
         this.status = HttpStatus.NOT_FOUND;
     }
 
     public EntityNotFoundException(String message, HttpStatus status) {
-        super(message);
+        super(message, null, false, false);
         this.status = status;
     }
 
@@ -0,0 +1,183 @@
+package com.example.demo.handler;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+/**
+ * Tạo body lỗi JSON đã serialize sẵn (cùng cấu trúc với {@link ErrorResponse}),
+ * dùng cho các lỗi dự kiến như 404 và 400 để tránh tạo object và chạy Jackson
+ * cho mỗi request.
+ */
+public final class ErrorResponses {
+
+    private static final byte[] NOT_FOUND_HEAD = utf8("{\"message\":\"" + EmployeeNotFoundException.MESSAGE_PREFIX);
+    private static final byte[] NOT_FOUND_MID = ascii("\",\"status\":404,\"timestamp\":\"");
+    private static final byte[] VALIDATION_HEAD = ascii("{\"message\":\"Validation failed\",\"status\":400,\"timestamp\":\"");
+    private static final byte[] ERRORS_OPEN = ascii("\",\"errors\":[");
+    private static final byte[] ERRORS_CLOSE = ascii("]}");
+    private static final byte[] NO_ERRORS_TAIL = ascii("\",\"errors\":null}");
+    private static final byte[] COMMA = ascii(",");
+
+    // Header dùng chung, read-only nên ResponseEntity không phải copy
+    private static final HttpHeaders JSON_HEADERS = jsonHeaders();
+
+    // Message validate là hằng số trong annotation nên mỗi field chỉ có vài message;
+    // giới hạn tổng số entry phòng trường hợp message có nội suy giá trị
+    private static final int MAX_CACHED_FIELD_ERRORS = 256;
+    private static final ConcurrentMap<String, ConcurrentMap<String, byte[]>> FIELD_ERRORS = new ConcurrentHashMap<>();
+    private static final AtomicInteger CACHED_FIELD_ERRORS = new AtomicInteger();
+
+    private static volatile CachedTimestamp cachedTimestamp = new CachedTimestamp(Long.MIN_VALUE, null);
+
+    private ErrorResponses() {
+    }
+
+    // 404 cho GET /api/employees/{id}
+    public static ResponseEntity<byte[]> employeeNotFound(Long id) {
+        byte[] body = concat(NOT_FOUND_HEAD, ascii(String.valueOf(id)), NOT_FOUND_MID, timestamp(), NO_ERRORS_TAIL);
+        return json(HttpStatus.NOT_FOUND, body);
+    }
+
+    // 400 khi validate dữ liệu thất bại
+    public static ResponseEntity<byte[]> validationFailed(List<ObjectError> errors) {
+        byte[][] parts = new byte[4 + errors.size() + Math.max(errors.size() - 1, 0)][];
+        int i = 0;
+        parts[i++] = VALIDATION_HEAD;
+        parts[i++] = timestamp();
+        parts[i++] = ERRORS_OPEN;
+        for (int e = 0; e < errors.size(); e++) {
+            if (e > 0) {
+                parts[i++] = COMMA;
+            }
+            parts[i++] = fieldError(errors.get(e));
+        }
+        parts[i++] = ERRORS_CLOSE;
+        return json(HttpStatus.BAD_REQUEST, concat(parts));
+    }
+
+    // Lỗi tuỳ chỉnh với message bất kỳ
+    public static ResponseEntity<byte[]> of(HttpStatus status, String message) {
+        StringBuilder head = new StringBuilder(64 + (message != null ? message.length() : 4));
+        head.append("{\"message\":");
+        appendJsonString(head, message);
+        head.append(",\"status\":").append(status.value()).append(",\"timestamp\":\"");
+        byte[] body = concat(utf8(head.toString()), timestamp(), NO_ERRORS_TAIL);
+        return json(status, body);
+    }
+
+    private static byte[] fieldError(ObjectError error) {
+        String name = error instanceof FieldError fieldError ? fieldError.getField() : error.getObjectName();
+        String message = String.valueOf(error.getDefaultMessage());
+        ConcurrentMap<String, byte[]> byMessage = FIELD_ERRORS.get(name);
+        byte[] cached = byMessage != null ? byMessage.get(message) : null;
+        if (cached != null) {
+            return cached;
+        }
+        StringBuilder sb = new StringBuilder(name.length() + message.length() + 8);
+        sb.append('"');
+        appendEscaped(sb, name);
+        sb.append(": ");
+        appendEscaped(sb, message);
+        sb.append('"');
+        byte[] serialized = utf8(sb.toString());
+        if (CACHED_FIELD_ERRORS.get() < MAX_CACHED_FIELD_ERRORS
+                && FIELD_ERRORS.computeIfAbsent(name, k -> new ConcurrentHashMap<>()).putIfAbsent(message, serialized) == null) {
+            CACHED_FIELD_ERRORS.incrementAndGet();
+        }
+        return serialized;
+    }
+
+    // Timestamp chỉ format lại mỗi giây một lần
+    private static byte[] timestamp() {
+        long epochSecond = System.currentTimeMillis() / 1000;
+        CachedTimestamp cached = cachedTimestamp;
+        if (cached.epochSecond() != epochSecond) {
+            Instant instant = Instant.ofEpochSecond(epochSecond);
+            LocalDateTime now = LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+            cached = new CachedTimestamp(epochSecond, ascii(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(now)));
+            cachedTimestamp = cached;
+        }
+        return cached.bytes();
+    }
+
+    private static ResponseEntity<byte[]> json(HttpStatus status, byte[] body) {
+        return new ResponseEntity<>(body, JSON_HEADERS, status);
+    }
+
+    private static HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+
+    private static void appendJsonString(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append('"');
+        appendEscaped(sb, value);
+        sb.append('"');
+    }
+
+    private static void appendEscaped(StringBuilder sb, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                case '\b' -> sb.append("\\b");
+                case '\f' -> sb.append("\\f");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04X", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+        byte[] result = new byte[length];
+        int offset = 0;
+        for (byte[] part : parts) {
+            System.arraycopy(part, 0, result, offset, part.length);
+            offset += part.length;
+        }
+        return result;
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private record CachedTimestamp(long epochSecond, byte[] bytes) {
+    }
+}
@@ -2,66 +2,35 @@ package com.example.demo.handler;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
-import java.util.ArrayList;
-import java.util.List;
-
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
     // Xử lý lỗi validate dữ liệu
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex) {
-        List<String> errorMessages = new ArrayList<>();
-        ex.getBindingResult().getAllErrors().forEach(error -> {
-            String errorMessage = error.getDefaultMessage();
-            String fieldName = ((FieldError) error).getField();
-            errorMessages.add(fieldName + ": " + errorMessage);
-        });
-        ErrorResponse errorResponse = new ErrorResponse(
-                "Validation failed",
-                HttpStatus.BAD_REQUEST.value(),
-                java.time.LocalDateTime.now()
-        );
-        errorResponse.setErrors(errorMessages);
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    public ResponseEntity<byte[]> handleValidationErrors(MethodArgumentNotValidException ex) {
+        return ErrorResponses.validationFailed(ex.getBindingResult().getAllErrors());
     }
 
     // Xử lý lỗi entity không tìm thấy (tuỳ chỉnh)
     @ExceptionHandler(EntityNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleEntityNotFoundException(EntityNotFoundException ex) {
-        ErrorResponse errorResponse = new ErrorResponse(
-                ex.getMessage(),
-                ex.getStatus().value(),
-                java.time.LocalDateTime.now()
-        );
-        return new ResponseEntity<>(errorResponse, ex.getStatus());
+    public ResponseEntity<byte[]> handleEntityNotFoundException(EntityNotFoundException ex) {
+        return ErrorResponses.of(ex.getStatus(), ex.getMessage());
     }
 
     // Xử lý lỗi entity bị trùng (tuỳ chỉnh)
     @ExceptionHandler(EntityDuplicateException.class)
-    public ResponseEntity<ErrorResponse> handleEntityDuplicateException(EntityDuplicateException ex) {
-        ErrorResponse errorResponse = new ErrorResponse(
-                ex.getMessage(),
-                ex.getStatus().value(),
-                java.time.LocalDateTime.now()
-        );
-        return new ResponseEntity<>(errorResponse, ex.getStatus());
+    public ResponseEntity<byte[]> handleEntityDuplicateException(EntityDuplicateException ex) {
+        return ErrorResponses.of(ex.getStatus(), ex.getMessage());
     }
 
     // Xử lý lỗi HTTP tuỳ chỉnh
     @ExceptionHandler(HttpException.class)
-    public ResponseEntity<ErrorResponse> handleHttpException(HttpException ex) {
-        ErrorResponse errorResponse = new ErrorResponse(
-                ex.getMessage(),
-                ex.getStatus().value(),
-                java.time.LocalDateTime.now()
-        );
-        return new ResponseEntity<>(errorResponse, ex.getStatus());
+    public ResponseEntity<byte[]> handleHttpException(HttpException ex) {
+        return ErrorResponses.of(ex.getStatus(), ex.getMessage());
     }
 
     // Xử lý lỗi tổng quát
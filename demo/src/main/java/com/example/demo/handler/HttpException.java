@@ -6,7 +6,8 @@ public class HttpException extends RuntimeException {
     private final HttpStatus status;
 
     public HttpException(String message, HttpStatus status) {
-        super(message);
+        // Lỗi nghiệp vụ dự kiến: không cần stack trace
+        super(message, null, false, false);
         this.status = status;
     }
 
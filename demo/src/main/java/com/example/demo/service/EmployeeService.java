@@ -16,6 +16,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -57,10 +58,8 @@ public class EmployeeService {
                 .build();
     }
 
-    public EmployeeDTO getEmployeeById(Long id) {
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new EmployeeNotFoundException(id));
-        return convertToDTO(employee);
+    public Optional<EmployeeDTO> findEmployeeById(Long id) {
+        return employeeRepository.findById(id).map(this::convertToDTO);
     }
 
     public EmployeeDTO updateEmployee(Long id, EmployeeUpdateRequest employee2) {
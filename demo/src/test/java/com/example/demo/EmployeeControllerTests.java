@@ -0,0 +1,112 @@
+package com.example.demo;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.demo.controller.EmployeeController;
+import com.example.demo.dto.EmployeeCreateRequest;
+import com.example.demo.dto.EmployeeUpdateRequest;
+import com.example.demo.handler.DuplicateEmailException;
+import com.example.demo.handler.EmployeeNotFoundException;
+import com.example.demo.service.EmployeeService;
+
+@WebMvcTest(EmployeeController.class)
+class EmployeeControllerTests {
+
+	private static final String TIMESTAMP = "\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private EmployeeService employeeService;
+
+	@Test
+	void getMissingEmployeeReturnsNotFound() throws Exception {
+		given(employeeService.findEmployeeById(99L)).willReturn(Optional.empty());
+
+		mockMvc.perform(get("/api/employees/99"))
+				.andExpect(status().isNotFound())
+				.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+				.andExpect(jsonPath("$.message").value("Employee not found with id: 99"))
+				.andExpect(jsonPath("$.status").value(404))
+				.andExpect(jsonPath("$.timestamp").value(matchesPattern(TIMESTAMP)))
+				.andExpect(jsonPath("$.errors").doesNotExist());
+	}
+
+	@Test
+	void updateMissingEmployeeReturnsNotFound() throws Exception {
+		given(employeeService.updateEmployee(eq(99L), any(EmployeeUpdateRequest.class)))
+				.willThrow(new EmployeeNotFoundException(99L));
+
+		mockMvc.perform(put("/api/employees/99")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"fullName\":\"Nguyen Van A\"}"))
+				.andExpect(status().isNotFound())
+				.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+				.andExpect(jsonPath("$.message").value("Employee not found with id: 99"))
+				.andExpect(jsonPath("$.status").value(404));
+	}
+
+	@Test
+	void deleteMissingEmployeeReturnsNotFound() throws Exception {
+		willThrow(new EmployeeNotFoundException(99L)).given(employeeService).deleteEmployee(99L);
+
+		mockMvc.perform(delete("/api/employees/99"))
+				.andExpect(status().isNotFound())
+				.andExpect(jsonPath("$.message").value("Employee not found with id: 99"))
+				.andExpect(jsonPath("$.status").value(404));
+	}
+
+	@Test
+	void createWithDuplicateEmailReturnsConflict() throws Exception {
+		given(employeeService.createEmployee(any(EmployeeCreateRequest.class)))
+				.willThrow(new DuplicateEmailException("Email already exists: a@example.com"));
+
+		mockMvc.perform(post("/api/employees")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								{"fullName":"Nguyen Van A","email":"a@example.com","dateOfBirth":"1990-01-01",
+								"gender":"MALE","phoneNumber":"0123456789","password":"secret1"}
+								"""))
+				.andExpect(status().isConflict())
+				.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+				.andExpect(jsonPath("$.message").value("Email already exists: a@example.com"))
+				.andExpect(jsonPath("$.status").value(409));
+	}
+
+	@Test
+	void createWithInvalidBodyReturnsBadRequest() throws Exception {
+		mockMvc.perform(post("/api/employees")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								{"fullName":"Nguyen Van A","email":"a@example.com","dateOfBirth":"1990-01-01",
+								"gender":"MALE","phoneNumber":"123","password":"secret1"}
+								"""))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+				.andExpect(jsonPath("$.message").value("Validation failed"))
+				.andExpect(jsonPath("$.status").value(400))
+				.andExpect(jsonPath("$.timestamp").value(matchesPattern(TIMESTAMP)))
+				.andExpect(jsonPath("$.errors[0]").value("phoneNumber: Số điện thoại phải gồm 10 chữ số"));
+	}
+}
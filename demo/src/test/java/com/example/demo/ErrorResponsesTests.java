@@ -0,0 +1,104 @@
+package com.example.demo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import com.example.demo.handler.EmployeeNotFoundException;
+import com.example.demo.handler.ErrorResponse;
+import com.example.demo.handler.ErrorResponses;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+class ErrorResponsesTests {
+
+	// Cấu hình giống ObjectMapper của Spring Boot đã serialize ErrorResponse trước đây
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+			.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build();
+
+	@Test
+	void employeeNotFoundMatchesJackson() throws Exception {
+		ResponseEntity<byte[]> response = ErrorResponses.employeeNotFound(42L);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+		assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+		assertMatchesJackson(response, new EmployeeNotFoundException(42L).getMessage(), 404, null);
+	}
+
+	@Test
+	void ofMatchesJackson() throws Exception {
+		ResponseEntity<byte[]> response = ErrorResponses.of(HttpStatus.CONFLICT, "Email already exists: a@b.com");
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+		assertMatchesJackson(response, "Email already exists: a@b.com", 409, null);
+	}
+
+	@Test
+	void ofEscapesSpecialCharacters() throws Exception {
+		String message = "quote \" backslash \\ newline \n tab \t cr \r backspace \b formfeed \f bell \u0007 unit \u001f tiếng Việt";
+
+		assertMatchesJackson(ErrorResponses.of(HttpStatus.BAD_REQUEST, message), message, 400, null);
+	}
+
+	@Test
+	void ofWithNullMessage() throws Exception {
+		ResponseEntity<byte[]> response = ErrorResponses.of(HttpStatus.NOT_FOUND, null);
+
+		assertMatchesJackson(response, null, 404, null);
+		assertThat(objectMapper.readTree(response.getBody()).get("message").isNull()).isTrue();
+	}
+
+	@Test
+	void validationFailedMatchesJackson() throws Exception {
+		List<ObjectError> errors = List.of(
+				new FieldError("employeeCreateRequest", "fullName", "Full name không được để trống"),
+				new FieldError("employeeCreateRequest", "phoneNumber", "Số điện thoại \"phải\" gồm 10 chữ số"),
+				new ObjectError("employeeCreateRequest", "Dữ liệu không hợp lệ"),
+				new FieldError("employeeCreateRequest", "email", null));
+
+		ResponseEntity<byte[]> response = ErrorResponses.validationFailed(errors);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+		assertMatchesJackson(response, "Validation failed", 400, List.of(
+				"fullName: Full name không được để trống",
+				"phoneNumber: Số điện thoại \"phải\" gồm 10 chữ số",
+				"employeeCreateRequest: Dữ liệu không hợp lệ",
+				"email: null"));
+	}
+
+	@Test
+	void validationFailedWithEmptyErrors() throws Exception {
+		assertMatchesJackson(ErrorResponses.validationFailed(List.of()), "Validation failed", 400, List.of());
+	}
+
+	@Test
+	void timestampAlwaysHasSeconds() throws Exception {
+		String timestamp = objectMapper.readTree(ErrorResponses.employeeNotFound(1L).getBody()).get("timestamp").asText();
+
+		assertThat(timestamp).matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}");
+	}
+
+	// So sánh từng byte với ErrorResponse cũ được Jackson serialize (cùng timestamp)
+	private void assertMatchesJackson(ResponseEntity<byte[]> response, String message, int status, List<String> errors)
+			throws Exception {
+		String body = new String(response.getBody(), StandardCharsets.UTF_8);
+		JsonNode node = objectMapper.readTree(body);
+		LocalDateTime timestamp = LocalDateTime.parse(node.get("timestamp").asText());
+
+		ErrorResponse expected = new ErrorResponse(message, status, timestamp, errors);
+		assertThat(body).isEqualTo(objectMapper.writeValueAsString(expected));
+	}
+}